@@ -2,9 +2,11 @@ package com.example.mdbspringbootreactive;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 import org.springframework.data.mongodb.repository.config.EnableReactiveMongoRepositories;
 
 @SpringBootApplication
+@ConfigurationPropertiesScan
 @EnableReactiveMongoRepositories
 public class MdbSpringBootReactiveApplication {
 
@@ -0,0 +1,57 @@
+package com.example.mdbspringbootreactive.config;
+
+import java.time.Duration;
+
+/**
+ * A point in time by which a request must be finished, measured on the monotonic clock.
+ * Created once per request and passed down the transfer pipeline, so every stage can ask
+ * how much of the budget is left.
+ *
+ * @param expiresAtNanos the {@link System#nanoTime()} value at which the deadline expires
+ */
+public record Deadline(long expiresAtNanos) {
+
+    /**
+     * Request header carrying the client's time budget in milliseconds.
+     */
+    public static final String HEADER = "X-Request-Timeout";
+
+    /**
+     * Creates a deadline that expires once the given budget has elapsed.
+     *
+     * @param budget the time allowed from now; negative budgets are treated as zero
+     * @return the deadline
+     */
+    public static Deadline after(Duration budget) {
+        return new Deadline(System.nanoTime() + Math.max(0, budget.toNanos()));
+    }
+
+    /**
+     * Returns the time left before the deadline expires.
+     *
+     * @return the remaining budget, or {@link Duration#ZERO} if already expired
+     */
+    public Duration remaining() {
+        long remaining = expiresAtNanos - System.nanoTime();
+        return remaining > 0 ? Duration.ofNanos(remaining) : Duration.ZERO;
+    }
+
+    /**
+     * Returns the remaining budget in whole milliseconds, suitable for MongoDB's {@code maxTimeMS}.
+     * Never returns 0, since {@code maxTimeMS=0} means no limit at all.
+     *
+     * @return the remaining budget in milliseconds, at least 1
+     */
+    public long remainingMillis() {
+        return Math.max(1, remaining().toMillis());
+    }
+
+    /**
+     * Returns whether the deadline has passed.
+     *
+     * @return true if no budget is left
+     */
+    public boolean isExpired() {
+        return remaining().isZero();
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.mdbspringbootreactive.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Request deadline settings, bound from the {@code deadline.*} properties.
+ *
+ * @param defaultTimeout budget for endpoints without an entry in {@code endpoints}
+ * @param maxTimeout     upper bound for any budget, including one requested by the client
+ * @param endpoints      per-endpoint budgets keyed by endpoint name, e.g. {@code transfer}
+ */
+@ConfigurationProperties(prefix = "deadline")
+public record DeadlineProperties(@DefaultValue("5s") Duration defaultTimeout,
+                                 @DefaultValue("30s") Duration maxTimeout,
+                                 Map<String, Duration> endpoints) {
+
+    public DeadlineProperties {
+        endpoints = endpoints == null ? Map.of() : Map.copyOf(endpoints);
+    }
+
+    /**
+     * Resolves the deadline for a request. A budget requested through the {@link Deadline#HEADER}
+     * header takes precedence over the endpoint default, but is capped at {@code maxTimeout}.
+     * A header that is not a positive whole number of milliseconds is ignored and the endpoint
+     * default applies, so a bad value never fails a request before any work has run.
+     *
+     * @param endpoint         the endpoint name used to look up its default budget
+     * @param requestedTimeout the header value in milliseconds, or null if not sent
+     * @return the deadline for the request, starting now
+     */
+    public Deadline resolve(String endpoint, String requestedTimeout) {
+        Duration budget = parseRequestedTimeout(requestedTimeout);
+        if (budget == null) {
+            budget = endpoints.getOrDefault(endpoint, defaultTimeout);
+        }
+        if (budget.compareTo(maxTimeout) > 0) {
+            budget = maxTimeout;
+        }
+        return Deadline.after(budget);
+    }
+
+    /**
+     * Parses the requested budget from the header value.
+     *
+     * @param requestedTimeout the header value, or null if not sent
+     * @return the requested budget, or null if absent, malformed, zero or negative
+     */
+    private static Duration parseRequestedTimeout(String requestedTimeout) {
+        if (requestedTimeout == null) {
+            return null;
+        }
+        try {
+            long millis = Long.parseLong(requestedTimeout.trim());
+            return millis > 0 ? Duration.ofMillis(millis) : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.example.mdbspringbootreactive.config;
 import com.mongodb.ConnectionString;
 import com.mongodb.MongoClientSettings;
 import com.mongodb.ReadConcern;
+import com.mongodb.TransactionOptions;
 import com.mongodb.WriteConcern;
 import com.mongodb.lang.NonNull;
 import org.springframework.boot.autoconfigure.mongo.MongoProperties;
@@ -12,6 +13,8 @@ import org.springframework.data.mongodb.ReactiveMongoDatabaseFactory;
 import org.springframework.data.mongodb.ReactiveMongoTransactionManager;
 import org.springframework.data.mongodb.config.AbstractReactiveMongoConfiguration;
 
+import java.util.concurrent.TimeUnit;
+
 
 /**
  * Configuration class for setting up reactive MongoDB with custom client settings and transaction management.
@@ -52,11 +55,18 @@ public class ReactiveMongoConfig extends AbstractReactiveMongoConfiguration {
 
     /**
      * Creates and configures a ReactiveMongoTransactionManager to manage MongoDB transactions.
+     * The commit is sent after the request deadline has stopped timing the execution, so it is bounded
+     * on the server by {@code maxCommitTimeMS}, set to the largest deadline a request may have.
      * @param dbFactory The ReactiveMongoDatabaseFactory used for MongoDB connections.
+     * @param deadlineProperties The deadline settings whose maximum timeout bounds the commit.
      * @return A ReactiveMongoTransactionManager for handling MongoDB transactions.
      */
     @Bean
-    public ReactiveMongoTransactionManager transactionManager(ReactiveMongoDatabaseFactory dbFactory) {
-        return new ReactiveMongoTransactionManager(dbFactory);
+    public ReactiveMongoTransactionManager transactionManager(ReactiveMongoDatabaseFactory dbFactory,
+                                                              DeadlineProperties deadlineProperties) {
+        TransactionOptions options = TransactionOptions.builder()
+                .maxCommitTime(deadlineProperties.maxTimeout().toMillis(), TimeUnit.MILLISECONDS)
+                .build();
+        return new ReactiveMongoTransactionManager(dbFactory, options);
     }
 }
@@ -1,6 +1,8 @@
 package com.example.mdbspringbootreactive.controller;
 
 
+import com.example.mdbspringbootreactive.config.Deadline;
+import com.example.mdbspringbootreactive.config.DeadlineProperties;
 import com.example.mdbspringbootreactive.entity.TransferRequest;
 
 import com.example.mdbspringbootreactive.exception.AccountNotFoundException;
@@ -19,6 +21,8 @@ import java.util.Map;
 /**
  * REST controller for managing account-related operations, including account creation,
  * retrieval, debit and credit transactions, and fund transfers.
+ * Transaction endpoints run under a deadline taken from the {@value Deadline#HEADER} header
+ * or the per-endpoint defaults in {@link DeadlineProperties}.
  */
 @RestController
 public class AccountController {
@@ -26,10 +30,13 @@ public class AccountController {
     private static final Logger LOGGER = LoggerFactory.getLogger(AccountController.class);
     private final AccountRepository accountRepository;
     private final TxnService txnService;
+    private final DeadlineProperties deadlineProperties;
 
-    public AccountController(AccountRepository accountRepository, TxnService txnService) {
+    public AccountController(AccountRepository accountRepository, TxnService txnService,
+                             DeadlineProperties deadlineProperties) {
         this.accountRepository = accountRepository;
         this.txnService = txnService;
+        this.deadlineProperties = deadlineProperties;
     }
 
     /**
@@ -59,45 +66,62 @@ public class AccountController {
      * Debits an account with the specified amount.
      * @param accountNum The account number.
      * @param requestBody A map containing the amount to debit.
+     * @param timeout The client's time budget in milliseconds, if sent.
      * @return The resulting transaction.
      */
     @PostMapping("/account/{accountNum}/debit")
-    public Mono<Txn> debitAccount(@PathVariable String accountNum, @RequestBody Map<String, Object> requestBody) {
+    public Mono<Txn> debitAccount(@PathVariable String accountNum, @RequestBody Map<String, Object> requestBody,
+                                  @RequestHeader(name = Deadline.HEADER, required = false) String timeout) {
         LOGGER.info("Debiting account number: {}", accountNum);
         double amount = ((Number) requestBody.getOrDefault("amount", 0)).doubleValue();
         Txn txn = new Txn();
         txn.addEntry(new TxnEntry(accountNum, amount));
-        return txnService.saveTransaction(txn).flatMap(txnService::executeTxn);
+        return execute(txn, deadlineProperties.resolve("debit", timeout));
     }
 
     /**
      * Credits an account with the specified amount.
      * @param accountNum The account number.
      * @param requestBody A map containing the amount to credit.
+     * @param timeout The client's time budget in milliseconds, if sent.
      * @return The resulting transaction.
      */
     @PostMapping("/account/{accountNum}/credit")
-    public Mono<Txn> creditAccount(@PathVariable String accountNum, @RequestBody Map<String, Object> requestBody) {
+    public Mono<Txn> creditAccount(@PathVariable String accountNum, @RequestBody Map<String, Object> requestBody,
+                                   @RequestHeader(name = Deadline.HEADER, required = false) String timeout) {
         LOGGER.info("Crediting account number: {}", accountNum);
         double amount = ((Number) requestBody.getOrDefault("amount", 0)).doubleValue();
         Txn txn = new Txn();
         txn.addEntry(new TxnEntry(accountNum, -amount));
-        return txnService.saveTransaction(txn).flatMap(txnService::executeTxn);
+        return execute(txn, deadlineProperties.resolve("credit", timeout));
     }
 
     /**
      * Transfers funds from one account to another.
      * @param from The source account number.
      * @param transferRequest The transfer details, including the target account and amount.
+     * @param timeout The client's time budget in milliseconds, if sent.
      * @return The resulting transaction.
      */
     @PostMapping("/account/{from}/transfer")
-    public Mono<Txn> transfer(@PathVariable String from, @RequestBody TransferRequest transferRequest) {
+    public Mono<Txn> transfer(@PathVariable String from, @RequestBody TransferRequest transferRequest,
+                              @RequestHeader(name = Deadline.HEADER, required = false) String timeout) {
         LOGGER.info("Transferring funds from account: {} to account: {}", from, transferRequest.getTo());
         Txn txn = new Txn();
         txn.addEntry(new TxnEntry(from, -transferRequest.getAmount()));
         txn.addEntry(new TxnEntry(transferRequest.getTo(), transferRequest.getAmount()));
-        return txnService.saveTransaction(txn).flatMap(txnService::executeTxn);
+        return execute(txn, deadlineProperties.resolve("transfer", timeout));
+    }
+
+    /**
+     * Saves and executes a transaction under a single deadline.
+     * @param txn The transaction to save and execute.
+     * @param deadline The request deadline.
+     * @return The resulting transaction.
+     */
+    private Mono<Txn> execute(Txn txn, Deadline deadline) {
+        return txnService.saveTransaction(txn, deadline)
+                .flatMap(saved -> txnService.executeTxn(saved, deadline));
     }
 
 
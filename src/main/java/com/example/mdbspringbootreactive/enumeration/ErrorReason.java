@@ -1,5 +1,5 @@
 package com.example.mdbspringbootreactive.enumeration;
 
 public enum ErrorReason {
-    INSUFFICIENT_BALANCE, ACCOUNT_NOT_FOUND, DUPLICATE_ACCOUNT,
+    INSUFFICIENT_BALANCE, ACCOUNT_NOT_FOUND, DUPLICATE_ACCOUNT, DEADLINE_EXCEEDED,
 }
\ No newline at end of file
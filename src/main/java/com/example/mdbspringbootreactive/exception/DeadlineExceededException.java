@@ -0,0 +1,14 @@
+package com.example.mdbspringbootreactive.exception;
+
+public class DeadlineExceededException extends RuntimeException {
+
+    // Constructor with custom message
+    public DeadlineExceededException(String message) {
+        super(message);
+    }
+
+    // Default constructor with a default message
+    public DeadlineExceededException() {
+        super("Request deadline exceeded");
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.mdbspringbootreactive.exception;
 
 import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -47,6 +48,18 @@ public class GlobalExceptionHandler {
                 .body(new ResponseMessage(ErrorReason.DUPLICATE_ACCOUNT.name()));
     }
 
+    /**
+     * Handles exceptions when a request runs out of time before its transaction completes.
+     *
+     * @param ex the DeadlineExceededException thrown
+     * @return ResponseEntity with a gateway timeout status and a custom error message
+     */
+    @ExceptionHandler(DeadlineExceededException.class)
+    public ResponseEntity<ResponseMessage> deadlineExceeded(DeadlineExceededException ex) {
+        return ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT)
+                .body(new ResponseMessage(ErrorReason.DEADLINE_EXCEEDED.name()));
+    }
+
     /**
      * Handles exceptions related to transaction processing, such as insufficient balance.
      *
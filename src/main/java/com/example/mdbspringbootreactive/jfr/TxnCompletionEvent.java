@@ -0,0 +1,52 @@
+package com.example.mdbspringbootreactive.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event covering the execution of a transaction, from the start of the MongoDB
+ * transaction until it is committed or aborted.
+ */
+@Name(TxnCompletionEvent.NAME)
+@Label("Txn Execution")
+@Description("Executing a transaction until it is committed, aborted or cancelled")
+@Category({"MDB Reactive", "Transaction"})
+@StackTrace(false)
+class TxnCompletionEvent extends jdk.jfr.Event implements TxnEvents.Outcome {
+
+    static final String NAME = "com.example.mdbspringbootreactive.TxnCompletion";
+
+    @Label("Txn Id")
+    String txnId;
+
+    @Label("Account Numbers")
+    String accountNums;
+
+    @Label("Leg Count")
+    int legCount;
+
+    @Label("Outcome")
+    @Description("SUCCESS (committed), FAILED (aborted) or CANCELLED")
+    String outcome;
+
+    @Label("Error Reason")
+    String errorReason;
+
+    @Override
+    public void setOutcome(String outcome) {
+        this.outcome = outcome;
+    }
+
+    @Override
+    public boolean hasOutcome() {
+        return outcome != null;
+    }
+
+    @Override
+    public void setErrorReason(String errorReason) {
+        this.errorReason = errorReason;
+    }
+}
@@ -0,0 +1,169 @@
+package com.example.mdbspringbootreactive.jfr;
+
+import com.example.mdbspringbootreactive.enumeration.TxnStatus;
+import com.example.mdbspringbootreactive.exception.TransactionException;
+import com.example.mdbspringbootreactive.model.Txn;
+import com.example.mdbspringbootreactive.model.TxnEntry;
+import jdk.jfr.Event;
+import reactor.core.publisher.Mono;
+
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Records Java Flight Recorder events for each stage of a {@link Txn} lifecycle.
+ * Every method wraps a {@link Mono} so that the event spans from subscription until the
+ * Mono terminates or is cancelled. When the event type is disabled in the running recording
+ * the Mono is returned unchanged, so tracing costs next to nothing when nobody is listening.
+ */
+public final class TxnEvents {
+
+    static final String SUCCESS = "SUCCESS";
+    static final String NOT_FOUND = "NOT_FOUND";
+    static final String FAILED = "FAILED";
+    static final String CANCELLED = "CANCELLED";
+
+    /**
+     * Implemented by every transaction event so the outcome can be set generically.
+     * All events share one scheme: {@code SUCCESS}, {@code NOT_FOUND} (legs only), {@code FAILED}
+     * with an error reason, or {@code CANCELLED}.
+     */
+    interface Outcome {
+
+        void setOutcome(String outcome);
+
+        boolean hasOutcome();
+
+        void setErrorReason(String errorReason);
+    }
+
+    private TxnEvents() {
+    }
+
+    /**
+     * Traces the initial save of a transaction.
+     *
+     * @param txn  the transaction being saved
+     * @param save the save operation
+     * @return the save operation, recording a {@link TxnSaveEvent} when it terminates
+     */
+    public static Mono<Txn> save(Txn txn, Mono<Txn> save) {
+        return record(TxnSaveEvent::new, save, (event, saved) -> { },
+                event -> {
+                    event.txnId = txn.getId();
+                    event.accountNums = accountNums(txn);
+                    event.legCount = txn.getEntries().size();
+                });
+    }
+
+    /**
+     * Traces a single balance update of a transaction.
+     *
+     * @param txn    the transaction the leg belongs to
+     * @param entry  the entry being applied
+     * @param update the balance update, emitting the number of matched accounts
+     * @return the balance update, recording a {@link TxnLegEvent} when it terminates
+     */
+    public static Mono<Long> leg(Txn txn, TxnEntry entry, Mono<Long> update) {
+        return record(TxnLegEvent::new, update, (event, count) -> event.outcome = count < 1 ? NOT_FOUND : SUCCESS,
+                event -> {
+                    event.txnId = txn.getId();
+                    event.accountNum = entry.getAccountNum();
+                    event.amount = entry.getAmount();
+                });
+    }
+
+    /**
+     * Traces the status update of a transaction.
+     *
+     * @param txn    the transaction being updated
+     * @param status the status being set
+     * @param update the status update
+     * @return the status update, recording a {@link TxnStatusUpdateEvent} when it terminates
+     */
+    public static Mono<Txn> statusUpdate(Txn txn, TxnStatus status, Mono<Txn> update) {
+        return record(TxnStatusUpdateEvent::new, update, (event, updated) -> { },
+                event -> {
+                    event.txnId = txn.getId();
+                    event.status = status.name();
+                });
+    }
+
+    /**
+     * Traces the execution of a transaction until it is committed ({@code SUCCESS}) or aborted ({@code FAILED}).
+     *
+     * @param txn       the transaction being executed
+     * @param execution the transactional execution
+     * @return the execution, recording a {@link TxnCompletionEvent} when it terminates
+     */
+    public static Mono<Txn> completion(Txn txn, Mono<Txn> execution) {
+        return record(TxnCompletionEvent::new, execution, (event, executed) -> { },
+                event -> {
+                    event.txnId = txn.getId();
+                    event.accountNums = accountNums(txn);
+                    event.legCount = txn.getEntries().size();
+                });
+    }
+
+    /**
+     * Wraps a Mono so that an event begins on subscription and is committed on the terminal signal,
+     * before it reaches the downstream, so an enclosing stage never ends before the stages it wraps.
+     *
+     * @param factory  creates the event
+     * @param source   the Mono being traced
+     * @param onValue  sets the outcome from the emitted value, otherwise completion counts as success
+     * @param describe fills in the identifying fields just before the event is committed
+     * @return the traced Mono, or the source itself if the event is disabled
+     */
+    private static <E extends Event & Outcome, T> Mono<T> record(Supplier<E> factory, Mono<T> source,
+                                                                 BiConsumer<E, T> onValue,
+                                                                 Consumer<E> describe) {
+        return Mono.defer(() -> {
+            E event = factory.get();
+            if (!event.isEnabled()) {
+                return source;
+            }
+            event.begin();
+            return source
+                    .doOnSuccess(value -> {
+                        if (value != null) {
+                            onValue.accept(event, value);
+                        }
+                        if (!event.hasOutcome()) {
+                            event.setOutcome(SUCCESS);
+                        }
+                        commit(event, describe);
+                    })
+                    .doOnError(e -> {
+                        event.setOutcome(FAILED);
+                        event.setErrorReason(errorReason(e));
+                        commit(event, describe);
+                    })
+                    .doOnCancel(() -> {
+                        // a Mono may be cancelled after it has already succeeded
+                        if (!event.hasOutcome()) {
+                            event.setOutcome(CANCELLED);
+                            commit(event, describe);
+                        }
+                    });
+        });
+    }
+
+    private static <E extends Event> void commit(E event, Consumer<E> describe) {
+        describe.accept(event);
+        event.commit();
+    }
+
+    private static String accountNums(Txn txn) {
+        return txn.getEntries().stream().map(TxnEntry::getAccountNum).collect(Collectors.joining(","));
+    }
+
+    private static String errorReason(Throwable e) {
+        if (e instanceof TransactionException txnException && txnException.getTxn().getErrorReason() != null) {
+            return txnException.getTxn().getErrorReason().name();
+        }
+        return e.getClass().getSimpleName();
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.mdbspringbootreactive.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event covering a single balance update (leg) of a transaction.
+ */
+@Name(TxnLegEvent.NAME)
+@Label("Txn Balance Leg")
+@Description("Incrementing the balance of one account within a transaction")
+@Category({"MDB Reactive", "Transaction"})
+@StackTrace(false)
+class TxnLegEvent extends jdk.jfr.Event implements TxnEvents.Outcome {
+
+    static final String NAME = "com.example.mdbspringbootreactive.TxnLeg";
+
+    @Label("Txn Id")
+    String txnId;
+
+    @Label("Account Number")
+    String accountNum;
+
+    @Label("Amount")
+    double amount;
+
+    @Label("Outcome")
+    @Description("SUCCESS, NOT_FOUND, FAILED or CANCELLED")
+    String outcome;
+
+    @Label("Error Reason")
+    String errorReason;
+
+    @Override
+    public void setOutcome(String outcome) {
+        this.outcome = outcome;
+    }
+
+    @Override
+    public boolean hasOutcome() {
+        return outcome != null;
+    }
+
+    @Override
+    public void setErrorReason(String errorReason) {
+        this.errorReason = errorReason;
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.mdbspringbootreactive.jfr;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Command line tool that reads a JFR recording and reports the slowest transactions,
+ * with the time spent in each stage recorded by {@link TxnEvents}.
+ * <p>
+ * Usage: {@code java -cp <classpath> com.example.mdbspringbootreactive.jfr.TxnRecordingReport <recording.jfr> [limit]}
+ * <p>
+ * The "txn other" column is the execution time not spent in the balance legs or status update,
+ * i.e. starting, committing or aborting the MongoDB transaction and any scheduling delay.
+ */
+public final class TxnRecordingReport {
+
+    private static final int DEFAULT_LIMIT = 20;
+
+    /**
+     * Per-transaction durations aggregated from the recorded events.
+     */
+    static final class TxnTrace {
+        final String txnId;
+        String accountNums = "";
+        String outcome = "";
+        int legCount;
+        Duration save = Duration.ZERO;
+        Duration legs = Duration.ZERO;
+        Duration statusUpdate = Duration.ZERO;
+        Duration execution = Duration.ZERO;
+
+        TxnTrace(String txnId) {
+            this.txnId = txnId;
+        }
+
+        Duration total() {
+            return save.plus(execution);
+        }
+
+        Duration other() {
+            Duration other = execution.minus(legs).minus(statusUpdate);
+            return other.isNegative() ? Duration.ZERO : other;
+        }
+    }
+
+    private TxnRecordingReport() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: TxnRecordingReport <recording.jfr> [limit]");
+            System.exit(1);
+        }
+        int limit = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_LIMIT;
+        Map<String, TxnTrace> traces = read(Path.of(args[0]));
+        print(traces, limit, System.out);
+    }
+
+    /**
+     * Reads all transaction events from a recording and aggregates them by transaction id.
+     *
+     * @param recording path to the .jfr file
+     * @return traces keyed by transaction id, in order of first appearance
+     * @throws IOException if the recording cannot be read
+     */
+    static Map<String, TxnTrace> read(Path recording) throws IOException {
+        Map<String, TxnTrace> traces = new LinkedHashMap<>();
+        try (RecordingFile file = new RecordingFile(recording)) {
+            while (file.hasMoreEvents()) {
+                RecordedEvent event = file.readEvent();
+                String name = event.getEventType().getName();
+                if (!name.startsWith("com.example.mdbspringbootreactive.Txn")) {
+                    continue;
+                }
+                String txnId = event.getString("txnId");
+                if (txnId == null) {
+                    continue; // the save failed before an id was assigned
+                }
+                TxnTrace trace = traces.computeIfAbsent(txnId, TxnTrace::new);
+                switch (name) {
+                    case TxnSaveEvent.NAME -> trace.save = trace.save.plus(event.getDuration());
+                    case TxnLegEvent.NAME -> trace.legs = trace.legs.plus(event.getDuration());
+                    case TxnStatusUpdateEvent.NAME -> trace.statusUpdate = trace.statusUpdate.plus(event.getDuration());
+                    case TxnCompletionEvent.NAME -> {
+                        trace.execution = trace.execution.plus(event.getDuration());
+                        trace.accountNums = event.getString("accountNums");
+                        trace.legCount = event.getInt("legCount");
+                        String errorReason = event.getString("errorReason");
+                        trace.outcome = event.getString("outcome") + (errorReason != null ? " (" + errorReason + ")" : "");
+                    }
+                    default -> {
+                    }
+                }
+            }
+        }
+        return traces;
+    }
+
+    /**
+     * Prints the slowest transactions, by save plus execution time, with a per-stage breakdown.
+     *
+     * @param traces the aggregated traces
+     * @param limit  the maximum number of transactions to print
+     * @param out    the stream to print to
+     */
+    static void print(Map<String, TxnTrace> traces, int limit, PrintStream out) {
+        List<TxnTrace> slowest = traces.values().stream()
+                .sorted(Comparator.comparing(TxnTrace::total).reversed())
+                .limit(limit)
+                .toList();
+        out.printf("%d transactions recorded, %d slowest (times in ms)%n", traces.size(), slowest.size());
+        out.printf("%-26s %9s %9s %9s %9s %9s %4s  %-32s %s%n",
+                "txn id", "total", "save", "legs", "status", "txn other", "#leg", "outcome", "accounts");
+        for (TxnTrace trace : slowest) {
+            out.printf("%-26s %9.2f %9.2f %9.2f %9.2f %9.2f %4d  %-32s %s%n",
+                    trace.txnId, millis(trace.total()), millis(trace.save), millis(trace.legs),
+                    millis(trace.statusUpdate), millis(trace.other()), trace.legCount, trace.outcome, trace.accountNums);
+        }
+    }
+
+    private static double millis(Duration duration) {
+        return duration.toNanos() / 1_000_000.0;
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.mdbspringbootreactive.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event covering the initial save of a {@code PENDING} transaction document.
+ */
+@Name(TxnSaveEvent.NAME)
+@Label("Txn Save")
+@Description("Persisting a new transaction before it is executed")
+@Category({"MDB Reactive", "Transaction"})
+@StackTrace(false)
+class TxnSaveEvent extends jdk.jfr.Event implements TxnEvents.Outcome {
+
+    static final String NAME = "com.example.mdbspringbootreactive.TxnSave";
+
+    @Label("Txn Id")
+    String txnId;
+
+    @Label("Account Numbers")
+    String accountNums;
+
+    @Label("Leg Count")
+    int legCount;
+
+    @Label("Outcome")
+    @Description("SUCCESS, FAILED or CANCELLED")
+    String outcome;
+
+    @Label("Error Reason")
+    String errorReason;
+
+    @Override
+    public void setOutcome(String outcome) {
+        this.outcome = outcome;
+    }
+
+    @Override
+    public boolean hasOutcome() {
+        return outcome != null;
+    }
+
+    @Override
+    public void setErrorReason(String errorReason) {
+        this.errorReason = errorReason;
+    }
+}
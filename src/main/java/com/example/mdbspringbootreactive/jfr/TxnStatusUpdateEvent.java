@@ -0,0 +1,48 @@
+package com.example.mdbspringbootreactive.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event covering the status update of a transaction document.
+ */
+@Name(TxnStatusUpdateEvent.NAME)
+@Label("Txn Status Update")
+@Description("Updating the status of a transaction after its balance legs")
+@Category({"MDB Reactive", "Transaction"})
+@StackTrace(false)
+class TxnStatusUpdateEvent extends jdk.jfr.Event implements TxnEvents.Outcome {
+
+    static final String NAME = "com.example.mdbspringbootreactive.TxnStatusUpdate";
+
+    @Label("Txn Id")
+    String txnId;
+
+    @Label("Status")
+    String status;
+
+    @Label("Outcome")
+    @Description("SUCCESS, FAILED or CANCELLED")
+    String outcome;
+
+    @Label("Error Reason")
+    String errorReason;
+
+    @Override
+    public void setOutcome(String outcome) {
+        this.outcome = outcome;
+    }
+
+    @Override
+    public boolean hasOutcome() {
+        return outcome != null;
+    }
+
+    @Override
+    public void setErrorReason(String errorReason) {
+        this.errorReason = errorReason;
+    }
+}
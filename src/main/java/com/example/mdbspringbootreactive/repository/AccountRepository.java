@@ -3,13 +3,13 @@ package com.example.mdbspringbootreactive.repository;
 import com.example.mdbspringbootreactive.model.Account;
 import org.springframework.data.mongodb.repository.Query;
 import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
-import org.springframework.data.mongodb.repository.Update;
 import reactor.core.publisher.Mono;
 
 /**
  * Repository interface for performing reactive, non-blocking CRUD operations on {@link Account} documents
- * in MongoDB. Extends {@link ReactiveMongoRepository} for basic CRUD operations and includes custom query
- * methods for account-specific operations.
+ * in MongoDB. Extends {@link ReactiveMongoRepository} for basic CRUD operations and includes a custom query
+ * method for account lookups. Balance updates go through
+ * {@link com.example.mdbspringbootreactive.template.AccountTemplate} so they can carry a time limit.
  */
 public interface AccountRepository extends ReactiveMongoRepository<Account, String> {
     
@@ -23,14 +23,4 @@ public interface AccountRepository extends ReactiveMongoRepository<Account, Stri
     @Query("{accountNum:'?0'}")
     Mono<Account> findByAccountNum(String accountNum);
 
-    /**
-     * Increments the balance of an {@link Account} by a specified amount based on the account number.
-     *
-     * @param accountNum the account number of the {@link Account} to update.
-     * @param increment the amount to add to the account balance.
-     * @return a {@link Mono} emitting the number of updated documents as a {@link Long}.
-     */
-    @Update("{'$inc':{'balance': ?1}}")
-    Mono<Long> findAndIncrementBalanceByAccountNum(String accountNum, double increment);
-
 }
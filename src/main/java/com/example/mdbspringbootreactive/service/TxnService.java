@@ -1,79 +1,99 @@
 package com.example.mdbspringbootreactive.service;
 
+import com.example.mdbspringbootreactive.config.Deadline;
 import com.example.mdbspringbootreactive.enumeration.ErrorReason;
 import com.example.mdbspringbootreactive.enumeration.TxnStatus;
 import com.example.mdbspringbootreactive.exception.AccountNotFoundException;
+import com.example.mdbspringbootreactive.exception.DeadlineExceededException;
 import com.example.mdbspringbootreactive.exception.TransactionException;
+import com.example.mdbspringbootreactive.jfr.TxnEvents;
 import com.example.mdbspringbootreactive.model.Txn;
-import com.example.mdbspringbootreactive.repository.AccountRepository;
+import com.example.mdbspringbootreactive.template.AccountTemplate;
 import com.example.mdbspringbootreactive.template.TxnTemplate;
+import com.mongodb.MongoExecutionTimeoutException;
+import org.springframework.core.NestedExceptionUtils;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.reactive.TransactionalOperator;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.concurrent.TimeoutException;
 
 /**
  * Service to manage transactions and account balance updates.
  * Utilizes reactive programming patterns and transaction management with TransactionalOperator.
+ * Every operation is timed against the request {@link Deadline} and fails with a DeadlineExceededException
+ * once it runs out, aborting the MongoDB transaction. Only the balance updates and the status update also
+ * send the remaining budget to the server as {@code maxTimeMS}; the PENDING insert is bounded by the
+ * client-side timer alone, and the commit, sent after the timer, by {@code maxCommitTimeMS}
+ * ({@code deadline.max-timeout}, see ReactiveMongoConfig).
  */
 @Service
 public class TxnService {
 	
     private final TxnTemplate txnTemplate;
-    private final AccountRepository accountRepository;
+    private final AccountTemplate accountTemplate;
     private final TransactionalOperator transactionalOperator;
 
     /**
      * Constructs a TxnService with required dependencies.
      *
      * @param txnTemplate          the template for transaction persistence
-     * @param accountRepository    repository for account data
+     * @param accountTemplate      the template for account balance updates
      * @param transactionalOperator operator to manage transactions reactively
      */
-    public TxnService(TxnTemplate txnTemplate, AccountRepository accountRepository,
+    public TxnService(TxnTemplate txnTemplate, AccountTemplate accountTemplate,
                       TransactionalOperator transactionalOperator) {
         this.txnTemplate = txnTemplate;
-        this.accountRepository = accountRepository;
+        this.accountTemplate = accountTemplate;
         this.transactionalOperator = transactionalOperator;
     }
 
     /**
      * Saves a new transaction to the database.
      *
-     * @param txn the transaction to be saved
-     * @return Mono emitting the saved transaction
+     * @param txn      the transaction to be saved
+     * @param deadline the request deadline
+     * @return Mono emitting the saved transaction, or a DeadlineExceededException if the deadline passes
      */
-    public Mono<Txn> saveTransaction(Txn txn) {
-        return txnTemplate.save(txn);
+    public Mono<Txn> saveTransaction(Txn txn, Deadline deadline) {
+        return withinDeadline(TxnEvents.save(txn, Mono.defer(() -> txnTemplate.save(txn))), deadline);
     }
 
     /**
      * Executes a transaction by updating account balances and setting transaction status.
      * Errors related to insufficient balance or account not found are handled explicitly.
+     * Each stage is recorded as a JFR event, see {@link TxnEvents}.
      *
-     * @param txn the transaction to be executed
+     * @param txn      the transaction to be executed
+     * @param deadline the request deadline; when it passes the transaction is aborted
      * @return Mono emitting the executed transaction with updated status, wrapped in a transaction
      */
-    public Mono<Txn> executeTxn(Txn txn) {
-        return updateBalances(txn)
-                .then(txnTemplate.findAndUpdateStatusById(txn.getId(), TxnStatus.SUCCESS))
+    public Mono<Txn> executeTxn(Txn txn, Deadline deadline) {
+        Mono<Txn> execution = updateBalances(txn, deadline)
+                .then(Mono.defer(() -> TxnEvents.statusUpdate(txn, TxnStatus.SUCCESS,
+                        txnTemplate.findAndUpdateStatusById(txn.getId(), TxnStatus.SUCCESS, null, deadline))))
                 .onErrorResume(DataIntegrityViolationException.class, e -> handleTxnError(txn, TxnStatus.FAILED, ErrorReason.INSUFFICIENT_BALANCE))
-                .onErrorResume(AccountNotFoundException.class, e -> handleTxnError(txn, TxnStatus.FAILED, ErrorReason.ACCOUNT_NOT_FOUND))
-                .as(transactionalOperator::transactional);
+                .onErrorResume(AccountNotFoundException.class, e -> handleTxnError(txn, TxnStatus.FAILED, ErrorReason.ACCOUNT_NOT_FOUND));
+        // The timeout sits inside the transactional boundary, so running out of time rolls the transaction back
+        return withinDeadline(execution, deadline)
+                .as(transactionalOperator::transactional)
+                .as(transactional -> TxnEvents.completion(txn, transactional));
     }
 
     /**
      * Updates account balances based on transaction entries. Uses concatMap to ensure sequential balance updates.
      * If no account is found, an error is emitted to indicate the problem.
      *
-     * @param txn the transaction containing entries for balance updates
+     * @param txn      the transaction containing entries for balance updates
+     * @param deadline the request deadline, passed to each update as {@code maxTimeMS}
      * @return Flux emitting counts of updated balances or an error if an account is not found
      */
-    public Flux<Long> updateBalances(Txn txn) {
+    public Flux<Long> updateBalances(Txn txn, Deadline deadline) {
         return Flux.fromIterable(txn.getEntries())
-                .concatMap(entry -> accountRepository.findAndIncrementBalanceByAccountNum(entry.getAccountNum(), entry.getAmount()))
+                .concatMap(entry -> TxnEvents.leg(txn, entry,
+                        accountTemplate.incrementBalanceByAccountNum(entry.getAccountNum(), entry.getAmount(), deadline)))
                 .handle((updatedCount, sink) -> {
                     if (updatedCount < 1) {
                         sink.error(new AccountNotFoundException("Account not found for update"));
@@ -96,4 +116,27 @@ public class TxnService {
         txn.setErrorReason(errorReason);
         return Mono.error(new TransactionException(txn));
     }
+
+    /**
+     * Limits a Mono to the time left on the deadline. Both the client-side timeout and a server-side
+     * {@code maxTimeMS} expiry are reported as a DeadlineExceededException; cancelling the source on
+     * timeout releases the driver connection instead of waiting for work nobody is waiting for.
+     *
+     * @param source   the Mono to limit
+     * @param deadline the request deadline
+     * @return the limited Mono, failing on subscription if the deadline has already passed
+     */
+    private <T> Mono<T> withinDeadline(Mono<T> source, Deadline deadline) {
+        return Mono.defer(() -> {
+            if (deadline.isExpired()) {
+                return Mono.<T>error(new DeadlineExceededException());
+            }
+            return source.timeout(deadline.remaining());
+        }).onErrorMap(TxnService::isDeadlineExceeded, e -> new DeadlineExceededException());
+    }
+
+    private static boolean isDeadlineExceeded(Throwable e) {
+        return e instanceof TimeoutException
+                || NestedExceptionUtils.getMostSpecificCause(e) instanceof MongoExecutionTimeoutException;
+    }
 }
@@ -0,0 +1,75 @@
+package com.example.mdbspringbootreactive.template;
+
+import com.mongodb.MongoCommandException;
+import com.mongodb.client.model.FindOneAndUpdateOptions;
+import org.bson.Document;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.stereotype.Service;
+
+import com.example.mdbspringbootreactive.config.Deadline;
+import com.example.mdbspringbootreactive.model.Account;
+
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Service for updating account balances in a reactive MongoDB environment under a request deadline.
+ * Goes through the driver collection so each update can carry the remaining budget as {@code maxTimeMS},
+ * which the repository-derived update methods cannot.
+ */
+@Service
+public class AccountTemplate {
+
+    // DocumentValidationFailure, raised when an update would break the accounts schema (e.g. a negative balance)
+    private static final int DOCUMENT_VALIDATION_FAILURE = 121;
+
+    private final ReactiveMongoTemplate template;
+
+    /**
+     * Constructs an AccountTemplate with the provided ReactiveMongoTemplate.
+     *
+     * @param template the ReactiveMongoTemplate for MongoDB operations
+     */
+    public AccountTemplate(ReactiveMongoTemplate template) {
+        this.template = template;
+    }
+
+    /**
+     * Increments the balance of an account by account number, limited to the time left on the deadline.
+     * Participates in the surrounding MongoDB transaction, if any.
+     *
+     * @param accountNum the account number of the account to update
+     * @param increment  the amount to add to the account balance
+     * @param deadline   the request deadline, whose remaining budget is sent as {@code maxTimeMS}
+     * @return Mono emitting the number of updated accounts, 0 or 1, or a DataIntegrityViolationException
+     *         if the update fails schema validation
+     */
+    public Mono<Long> incrementBalanceByAccountNum(String accountNum, double increment, Deadline deadline) {
+        Document query = new Document("accountNum", accountNum);
+        Document update = new Document("$inc", new Document("balance", increment));
+        return Mono.defer(() -> {
+            FindOneAndUpdateOptions options = new FindOneAndUpdateOptions()
+                    .projection(new Document("_id", 1))
+                    .maxTime(deadline.remainingMillis(), TimeUnit.MILLISECONDS);
+            return template.execute(Account.class, collection -> collection.findOneAndUpdate(query, update, options))
+                    .count();
+        }).onErrorMap(AccountTemplate::isValidationFailure,
+                e -> new DataIntegrityViolationException(e.getMessage(), e));
+    }
+
+    /**
+     * A failed findAndModify surfaces as a MongoCommandException, which the template translates to an
+     * UncategorizedMongoDbException rather than the DataIntegrityViolationException an update would give.
+     *
+     * @param e the error to check, either raw or wrapped by the template's translation
+     * @return true if the error is a document validation failure
+     */
+    private static boolean isValidationFailure(Throwable e) {
+        Throwable cause = e instanceof MongoCommandException ? e : e.getCause();
+        return cause instanceof MongoCommandException commandException
+                && commandException.getErrorCode() == DOCUMENT_VALIDATION_FAILURE;
+    }
+}
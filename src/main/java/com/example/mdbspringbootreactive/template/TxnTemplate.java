@@ -1,11 +1,18 @@
 package com.example.mdbspringbootreactive.template;
 
+import com.mongodb.client.model.FindOneAndUpdateOptions;
+import com.mongodb.client.model.ReturnDocument;
+import org.bson.Document;
 import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.convert.UpdateMapper;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.Update;
-import org.springframework.data.mongodb.core.FindAndModifyOptions;
 import org.springframework.stereotype.Service;
 
+import com.example.mdbspringbootreactive.config.Deadline;
 import com.example.mdbspringbootreactive.enumeration.ErrorReason;
 import com.example.mdbspringbootreactive.enumeration.TxnStatus;
 import com.example.mdbspringbootreactive.model.Txn;
@@ -14,6 +21,8 @@ import reactor.core.publisher.Mono;
 
 import org.springframework.data.mongodb.core.query.Criteria;
 
+import java.util.concurrent.TimeUnit;
+
 
 /**
  * Service for managing transaction operations in a reactive MongoDB environment.
@@ -23,6 +32,10 @@ import org.springframework.data.mongodb.core.query.Criteria;
 public class TxnTemplate {
 
     private final ReactiveMongoTemplate template;
+    private final MongoConverter converter;
+    private final QueryMapper queryMapper;
+    private final UpdateMapper updateMapper;
+    private final MongoPersistentEntity<?> txnEntity;
 
     /**
      * Constructs a TxnTemplate with the provided ReactiveMongoTemplate.
@@ -31,6 +44,10 @@ public class TxnTemplate {
      */
     public TxnTemplate(ReactiveMongoTemplate template) {
         this.template = template;
+        this.converter = template.getConverter();
+        this.queryMapper = new QueryMapper(converter);
+        this.updateMapper = new UpdateMapper(converter);
+        this.txnEntity = converter.getMappingContext().getRequiredPersistentEntity(Txn.class);
     }
 
     /**
@@ -44,29 +61,27 @@ public class TxnTemplate {
     }
 
     /**
-     * Updates the status of a transaction by ID.
-     *
-     * @param id     the ID of the transaction to update
-     * @param status the new status to set
-     * @return Mono emitting the updated transaction, or empty if not found
-     */
-    public Mono<Txn> findAndUpdateStatusById(String id, TxnStatus status) {
-        return findAndUpdateStatusById(id, status, null);
-    }
-
-    /**
-     * Updates the status and error reason of a transaction by ID.
+     * Updates the status and error reason of a transaction by ID, limited to the time left on the deadline.
+     * {@code FindAndModifyOptions} has no time limit, so the mapped query and update are sent through the
+     * driver collection with the remaining budget as {@code maxTimeMS}.
      *
      * @param id          the ID of the transaction to update
      * @param status      the new status to set
      * @param errorReason the error reason to set (optional)
+     * @param deadline    the request deadline
      * @return Mono emitting the updated transaction, or empty if not found
      */
-    public Mono<Txn> findAndUpdateStatusById(String id, TxnStatus status, ErrorReason errorReason) {
-        Query query = new Query(Criteria.where("_id").is(id));
-        Update update = buildUpdate(status, errorReason);
-        FindAndModifyOptions options = FindAndModifyOptions.options().returnNew(true);
-        return template.findAndModify(query, update, options, Txn.class);
+    public Mono<Txn> findAndUpdateStatusById(String id, TxnStatus status, ErrorReason errorReason, Deadline deadline) {
+        Document query = queryMapper.getMappedObject(new Query(Criteria.where("_id").is(id)).getQueryObject(), txnEntity);
+        Document update = updateMapper.getMappedObject(buildUpdate(status, errorReason).getUpdateObject(), txnEntity);
+        return Mono.defer(() -> {
+            FindOneAndUpdateOptions options = new FindOneAndUpdateOptions()
+                    .returnDocument(ReturnDocument.AFTER)
+                    .maxTime(deadline.remainingMillis(), TimeUnit.MILLISECONDS);
+            return template.execute(Txn.class, collection -> collection.findOneAndUpdate(query, update, options))
+                    .next()
+                    .map(document -> converter.read(Txn.class, document));
+        });
     }
 
     /**
@@ -0,0 +1,70 @@
+package com.example.mdbspringbootreactive.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DeadlinePropertiesTest {
+
+    private final DeadlineProperties properties = new DeadlineProperties(Duration.ofSeconds(5),
+            Duration.ofSeconds(30), Map.of("transfer", Duration.ofSeconds(10)));
+
+    @Test
+    void usesDefaultForEndpointWithoutEntry() {
+        assertBudget(Duration.ofSeconds(5), properties.resolve("debit", null));
+    }
+
+    @Test
+    void usesEndpointEntry() {
+        assertBudget(Duration.ofSeconds(10), properties.resolve("transfer", null));
+    }
+
+    @Test
+    void headerOverridesEndpointEntry() {
+        assertBudget(Duration.ofMillis(1500), properties.resolve("transfer", " 1500 "));
+    }
+
+    @Test
+    void headerIsCappedAtMaxTimeout() {
+        assertBudget(Duration.ofSeconds(30), properties.resolve("debit", "600000"));
+    }
+
+    @Test
+    void endpointEntryIsCappedAtMaxTimeout() {
+        DeadlineProperties capped = new DeadlineProperties(Duration.ofSeconds(5), Duration.ofSeconds(2),
+                Map.of("transfer", Duration.ofSeconds(10)));
+        assertBudget(Duration.ofSeconds(2), capped.resolve("transfer", null));
+    }
+
+    @Test
+    void ignoresNonPositiveHeader() {
+        assertBudget(Duration.ofSeconds(10), properties.resolve("transfer", "0"));
+        assertBudget(Duration.ofSeconds(10), properties.resolve("transfer", "-100"));
+    }
+
+    @Test
+    void ignoresMalformedHeader() {
+        assertBudget(Duration.ofSeconds(5), properties.resolve("credit", "2s"));
+        assertBudget(Duration.ofSeconds(5), properties.resolve("credit", ""));
+    }
+
+    @Test
+    void missingEndpointsBindToEmptyMap() {
+        DeadlineProperties noEndpoints = new DeadlineProperties(Duration.ofSeconds(5), Duration.ofSeconds(30), null);
+        assertBudget(Duration.ofSeconds(5), noEndpoints.resolve("transfer", null));
+    }
+
+    /**
+     * The deadline starts when resolved, so allow for the time the test itself takes.
+     */
+    private static void assertBudget(Duration expected, Deadline deadline) {
+        Duration remaining = deadline.remaining();
+        assertTrue(remaining.compareTo(expected) <= 0, () -> remaining + " exceeds " + expected);
+        assertTrue(remaining.compareTo(expected.minusMillis(500)) > 0, () -> remaining + " far below " + expected);
+        assertEquals(expected.isZero(), deadline.isExpired());
+    }
+}
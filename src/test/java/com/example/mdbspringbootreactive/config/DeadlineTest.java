@@ -0,0 +1,40 @@
+package com.example.mdbspringbootreactive.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DeadlineTest {
+
+    @Test
+    void remainingIsBoundedByBudget() {
+        Deadline deadline = Deadline.after(Duration.ofSeconds(10));
+        assertFalse(deadline.isExpired());
+        assertTrue(deadline.remaining().compareTo(Duration.ofSeconds(10)) <= 0);
+        assertTrue(deadline.remaining().compareTo(Duration.ofSeconds(9)) > 0);
+    }
+
+    @Test
+    void zeroBudgetIsExpired() {
+        Deadline deadline = Deadline.after(Duration.ZERO);
+        assertTrue(deadline.isExpired());
+        assertEquals(Duration.ZERO, deadline.remaining());
+    }
+
+    @Test
+    void negativeBudgetIsTreatedAsZero() {
+        Deadline deadline = Deadline.after(Duration.ofSeconds(-5));
+        assertTrue(deadline.isExpired());
+        assertEquals(Duration.ZERO, deadline.remaining());
+    }
+
+    @Test
+    void remainingMillisNeverReturnsZero() {
+        // maxTimeMS=0 would mean no limit at all
+        assertEquals(1, Deadline.after(Duration.ZERO).remainingMillis());
+    }
+}
@@ -0,0 +1,188 @@
+package com.example.mdbspringbootreactive.jfr;
+
+import com.example.mdbspringbootreactive.enumeration.ErrorReason;
+import com.example.mdbspringbootreactive.enumeration.TxnStatus;
+import com.example.mdbspringbootreactive.exception.TransactionException;
+import com.example.mdbspringbootreactive.model.Txn;
+import com.example.mdbspringbootreactive.model.TxnEntry;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TxnEventsTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void saveRecordsIdAssignedBySave() throws Exception {
+        Txn txn = transfer();
+        Path file = record(() -> TxnEvents.save(txn, Mono.fromCallable(() -> {
+            txn.setId("txn-1");
+            return txn;
+        })).block());
+
+        RecordedEvent save = single(file, TxnSaveEvent.NAME);
+        assertEquals("txn-1", save.getString("txnId"));
+        assertEquals("A,B", save.getString("accountNums"));
+        assertEquals(2, save.getInt("legCount"));
+        assertEquals(TxnEvents.SUCCESS, save.getString("outcome"));
+        assertNull(save.getString("errorReason"));
+    }
+
+    @Test
+    void legRecordsSuccessNotFoundFailureAndCancel() throws Exception {
+        Txn txn = saved("txn-1");
+        TxnEntry entry = txn.getEntries().get(0);
+        Path file = record(() -> {
+            TxnEvents.leg(txn, entry, Mono.just(1L)).block();
+            TxnEvents.leg(txn, entry, Mono.just(0L)).block();
+            assertThrows(IllegalStateException.class,
+                    () -> TxnEvents.leg(txn, entry, Mono.error(new IllegalStateException())).block());
+            Disposable pending = TxnEvents.leg(txn, entry, Mono.never()).subscribe();
+            pending.dispose();
+        });
+
+        List<RecordedEvent> legs = events(file, TxnLegEvent.NAME);
+        assertEquals(List.of(TxnEvents.SUCCESS, TxnEvents.NOT_FOUND, TxnEvents.FAILED, TxnEvents.CANCELLED),
+                legs.stream().map(event -> event.getString("outcome")).toList());
+        assertEquals("IllegalStateException", legs.get(2).getString("errorReason"));
+        legs.forEach(event -> {
+            assertEquals("txn-1", event.getString("txnId"));
+            assertEquals("A", event.getString("accountNum"));
+            assertEquals(-10.0, event.getDouble("amount"));
+        });
+    }
+
+    @Test
+    void statusUpdateRecordsStatus() throws Exception {
+        Txn txn = saved("txn-1");
+        Path file = record(() -> TxnEvents.statusUpdate(txn, TxnStatus.SUCCESS, Mono.just(txn)).block());
+
+        RecordedEvent status = single(file, TxnStatusUpdateEvent.NAME);
+        assertEquals("txn-1", status.getString("txnId"));
+        assertEquals("SUCCESS", status.getString("status"));
+        assertEquals(TxnEvents.SUCCESS, status.getString("outcome"));
+    }
+
+    @Test
+    void completionRecordsTxnErrorReason() throws Exception {
+        Txn committed = saved("txn-1");
+        Txn aborted = saved("txn-2");
+        aborted.setErrorReason(ErrorReason.INSUFFICIENT_BALANCE);
+        Txn cancelled = saved("txn-3");
+        Path file = record(() -> {
+            TxnEvents.completion(committed, Mono.just(committed)).block();
+            assertThrows(TransactionException.class,
+                    () -> TxnEvents.completion(aborted, Mono.error(new TransactionException(aborted))).block());
+            TxnEvents.completion(cancelled, Mono.never()).subscribe().dispose();
+        });
+
+        Map<String, TxnRecordingReport.TxnTrace> traces = TxnRecordingReport.read(file);
+        assertEquals(TxnEvents.SUCCESS, traces.get("txn-1").outcome);
+        assertEquals("FAILED (INSUFFICIENT_BALANCE)", traces.get("txn-2").outcome);
+        assertEquals(TxnEvents.CANCELLED, traces.get("txn-3").outcome);
+        assertEquals("A,B", traces.get("txn-1").accountNums);
+        assertEquals(2, traces.get("txn-1").legCount);
+    }
+
+    @Test
+    void fullLifecycleAggregatesInReport() throws Exception {
+        Txn txn = transfer();
+        Path file = record(() -> TxnEvents.save(txn, Mono.fromCallable(() -> {
+                    txn.setId("txn-1");
+                    return txn;
+                }))
+                .flatMap(saved -> TxnEvents.completion(saved,
+                        TxnEvents.leg(saved, saved.getEntries().get(0), Mono.just(1L))
+                                .then(TxnEvents.leg(saved, saved.getEntries().get(1), Mono.just(1L)))
+                                .then(TxnEvents.statusUpdate(saved, TxnStatus.SUCCESS, Mono.just(saved)))))
+                .block());
+
+        TxnRecordingReport.TxnTrace trace = TxnRecordingReport.read(file).get("txn-1");
+        assertEquals(TxnEvents.SUCCESS, trace.outcome);
+        assertEquals(2, trace.legCount);
+        assertTrue(trace.execution.compareTo(trace.legs.plus(trace.statusUpdate)) >= 0);
+    }
+
+    @Test
+    void disabledEventPassesSourceThroughWithoutRecording() throws Exception {
+        Txn txn = saved("txn-1");
+        AtomicInteger subscriptions = new AtomicInteger();
+        Mono<Txn> source = Mono.fromCallable(() -> {
+            subscriptions.incrementAndGet();
+            return txn;
+        });
+
+        // No recording at all
+        assertEquals(txn, TxnEvents.save(txn, source).block());
+
+        // A recording with the save event switched off
+        Path file = tempDir.resolve("disabled.jfr");
+        try (Recording recording = new Recording()) {
+            recording.disable(TxnSaveEvent.class);
+            recording.start();
+            assertEquals(txn, TxnEvents.save(txn, source).block());
+            recording.stop();
+            recording.dump(file);
+        }
+
+        assertEquals(2, subscriptions.get());
+        assertTrue(events(file, TxnSaveEvent.NAME).isEmpty());
+    }
+
+    private Path record(Runnable body) throws Exception {
+        Path file = tempDir.resolve("txn.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(TxnSaveEvent.class);
+            recording.enable(TxnLegEvent.class);
+            recording.enable(TxnStatusUpdateEvent.class);
+            recording.enable(TxnCompletionEvent.class);
+            recording.start();
+            body.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return file;
+    }
+
+    private static List<RecordedEvent> events(Path file, String name) throws Exception {
+        return RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .sorted((a, b) -> a.getStartTime().compareTo(b.getStartTime()))
+                .toList();
+    }
+
+    private static RecordedEvent single(Path file, String name) throws Exception {
+        List<RecordedEvent> events = events(file, name);
+        assertEquals(1, events.size());
+        return events.get(0);
+    }
+
+    private static Txn transfer() {
+        Txn txn = new Txn();
+        txn.addEntry(new TxnEntry("A", -10));
+        txn.addEntry(new TxnEntry("B", 10));
+        return txn;
+    }
+
+    private static Txn saved(String id) {
+        Txn txn = transfer();
+        txn.setId(id);
+        return txn;
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.mdbspringbootreactive.jfr;
+
+import jdk.jfr.Recording;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TxnRecordingReportTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void aggregatesStagesByTxnId() throws Exception {
+        Path file = record(() -> {
+            emitTxn("t1", 2, TxnEvents.SUCCESS, null);
+            emitTxn("t2", 1, TxnEvents.FAILED, "INSUFFICIENT_BALANCE");
+        });
+
+        Map<String, TxnRecordingReport.TxnTrace> traces = TxnRecordingReport.read(file);
+
+        assertEquals(List.of("t1", "t2"), List.copyOf(traces.keySet()));
+        TxnRecordingReport.TxnTrace t1 = traces.get("t1");
+        assertEquals(2, t1.legCount);
+        assertEquals("A0,A1", t1.accountNums);
+        assertEquals(TxnEvents.SUCCESS, t1.outcome);
+        assertTrue(t1.save.compareTo(Duration.ZERO) > 0);
+        assertTrue(t1.legs.compareTo(Duration.ZERO) > 0);
+        assertTrue(t1.execution.compareTo(t1.legs.plus(t1.statusUpdate)) >= 0);
+        assertEquals(t1.save.plus(t1.execution), t1.total());
+        assertEquals("FAILED (INSUFFICIENT_BALANCE)", traces.get("t2").outcome);
+    }
+
+    @Test
+    void skipsEventsWithoutTxnId() throws Exception {
+        Path file = record(() -> {
+            TxnSaveEvent failedSave = new TxnSaveEvent();
+            failedSave.begin();
+            failedSave.outcome = "MongoException";
+            failedSave.commit();
+        });
+
+        assertTrue(TxnRecordingReport.read(file).isEmpty());
+    }
+
+    @Test
+    void otherNeverGoesNegative() {
+        TxnRecordingReport.TxnTrace trace = new TxnRecordingReport.TxnTrace("t1");
+        trace.execution = Duration.ofMillis(5);
+        trace.legs = Duration.ofMillis(4);
+        trace.statusUpdate = Duration.ofMillis(3);
+        assertEquals(Duration.ZERO, trace.other());
+    }
+
+    @Test
+    void printsSlowestFirstUpToLimit() {
+        TxnRecordingReport.TxnTrace fast = new TxnRecordingReport.TxnTrace("fast");
+        fast.execution = Duration.ofMillis(1);
+        TxnRecordingReport.TxnTrace slow = new TxnRecordingReport.TxnTrace("slow");
+        slow.execution = Duration.ofMillis(9);
+        TxnRecordingReport.TxnTrace medium = new TxnRecordingReport.TxnTrace("medium");
+        medium.save = Duration.ofMillis(2);
+        medium.execution = Duration.ofMillis(3);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        TxnRecordingReport.print(Map.of("fast", fast, "slow", slow, "medium", medium), 2,
+                new PrintStream(bytes, true, StandardCharsets.UTF_8));
+        String output = bytes.toString(StandardCharsets.UTF_8);
+
+        assertTrue(output.startsWith("3 transactions recorded, 2 slowest"));
+        assertTrue(output.indexOf("\nslow ") < output.indexOf("\nmedium "));
+        assertTrue(output.contains("\nmedium "));
+        assertFalse(output.contains("\nfast "));
+    }
+
+    private Path record(ThrowingRunnable emitter) throws Exception {
+        Path file = tempDir.resolve("txn.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(TxnSaveEvent.class);
+            recording.enable(TxnLegEvent.class);
+            recording.enable(TxnStatusUpdateEvent.class);
+            recording.enable(TxnCompletionEvent.class);
+            recording.start();
+            emitter.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return file;
+    }
+
+    private static void emitTxn(String txnId, int legCount, String outcome, String errorReason)
+            throws InterruptedException {
+        TxnSaveEvent save = new TxnSaveEvent();
+        save.begin();
+        Thread.sleep(1);
+        save.txnId = txnId;
+        save.commit();
+
+        TxnCompletionEvent completion = new TxnCompletionEvent();
+        completion.begin();
+        StringBuilder accountNums = new StringBuilder();
+        for (int i = 0; i < legCount; i++) {
+            TxnLegEvent leg = new TxnLegEvent();
+            leg.begin();
+            Thread.sleep(1);
+            leg.txnId = txnId;
+            leg.accountNum = "A" + i;
+            leg.commit();
+            accountNums.append(i > 0 ? "," : "").append(leg.accountNum);
+        }
+        TxnStatusUpdateEvent status = new TxnStatusUpdateEvent();
+        status.begin();
+        status.txnId = txnId;
+        status.commit();
+        completion.txnId = txnId;
+        completion.accountNums = accountNums.toString();
+        completion.legCount = legCount;
+        completion.outcome = outcome;
+        completion.errorReason = errorReason;
+        completion.commit();
+    }
+
+    @FunctionalInterface
+    private interface ThrowingRunnable {
+        void run() throws IOException, InterruptedException;
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.mdbspringbootreactive.service;
+
+import com.example.mdbspringbootreactive.config.Deadline;
+import com.example.mdbspringbootreactive.enumeration.ErrorReason;
+import com.example.mdbspringbootreactive.enumeration.TxnStatus;
+import com.example.mdbspringbootreactive.exception.DeadlineExceededException;
+import com.example.mdbspringbootreactive.exception.TransactionException;
+import com.example.mdbspringbootreactive.model.Txn;
+import com.example.mdbspringbootreactive.model.TxnEntry;
+import com.example.mdbspringbootreactive.template.AccountTemplate;
+import com.example.mdbspringbootreactive.template.TxnTemplate;
+import com.mongodb.MongoExecutionTimeoutException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.mongodb.UncategorizedMongoDbException;
+import org.springframework.transaction.ReactiveTransaction;
+import org.springframework.transaction.ReactiveTransactionManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class TxnServiceTest {
+
+    private final TxnTemplate txnTemplate = mock(TxnTemplate.class);
+    private final AccountTemplate accountTemplate = mock(AccountTemplate.class);
+    private final ReactiveTransactionManager transactionManager = mock(ReactiveTransactionManager.class);
+    private final TxnService txnService = new TxnService(txnTemplate, accountTemplate,
+            TransactionalOperator.create(transactionManager));
+
+    private final Deadline deadline = Deadline.after(Duration.ofSeconds(5));
+    private final Txn txn = transfer();
+
+    @BeforeEach
+    void setUp() {
+        when(transactionManager.getReactiveTransaction(any()))
+                .thenReturn(Mono.just(mock(ReactiveTransaction.class)));
+        when(transactionManager.commit(any())).thenReturn(Mono.empty());
+        when(transactionManager.rollback(any())).thenReturn(Mono.empty());
+        when(txnTemplate.findAndUpdateStatusById(eq("txn-1"), eq(TxnStatus.SUCCESS), isNull(), any()))
+                .thenReturn(Mono.fromSupplier(() -> {
+                    txn.setStatus(TxnStatus.SUCCESS);
+                    return txn;
+                }));
+    }
+
+    @Test
+    void commitsWhenAllLegsApply() {
+        when(accountTemplate.incrementBalanceByAccountNum(anyString(), anyDouble(), any())).thenReturn(Mono.just(1L));
+
+        StepVerifier.create(txnService.executeTxn(txn, deadline))
+                .assertNext(executed -> assertEquals(TxnStatus.SUCCESS, executed.getStatus()))
+                .verifyComplete();
+
+        verify(transactionManager).commit(any());
+        verify(transactionManager, never()).rollback(any());
+    }
+
+    @Test
+    void rollsBackOnInsufficientBalance() {
+        when(accountTemplate.incrementBalanceByAccountNum(anyString(), anyDouble(), any()))
+                .thenReturn(Mono.error(new DataIntegrityViolationException("Document failed validation")));
+
+        StepVerifier.create(txnService.executeTxn(txn, deadline))
+                .expectError(TransactionException.class)
+                .verify();
+
+        assertEquals(ErrorReason.INSUFFICIENT_BALANCE, txn.getErrorReason());
+        verify(transactionManager).rollback(any());
+        verify(transactionManager, never()).commit(any());
+    }
+
+    @Test
+    void expiredDeadlineNeverSaves() {
+        StepVerifier.create(txnService.saveTransaction(txn, Deadline.after(Duration.ZERO)))
+                .expectError(DeadlineExceededException.class)
+                .verify();
+
+        verifyNoInteractions(txnTemplate);
+    }
+
+    @Test
+    void expiredDeadlineNeverTouchesTemplates() {
+        StepVerifier.create(txnService.executeTxn(txn, Deadline.after(Duration.ZERO)))
+                .expectError(DeadlineExceededException.class)
+                .verify();
+
+        verifyNoInteractions(txnTemplate, accountTemplate);
+        verify(transactionManager, never()).commit(any());
+    }
+
+    @Test
+    void hangingLegTimesOutAndRollsBack() {
+        when(accountTemplate.incrementBalanceByAccountNum(anyString(), anyDouble(), any())).thenReturn(Mono.never());
+
+        StepVerifier.create(txnService.executeTxn(txn, Deadline.after(Duration.ofMillis(50))))
+                .expectError(DeadlineExceededException.class)
+                .verify(Duration.ofSeconds(5));
+
+        verify(transactionManager).rollback(any());
+        verify(transactionManager, never()).commit(any());
+    }
+
+    @Test
+    void serverTimeoutBecomesDeadlineExceeded() {
+        MongoExecutionTimeoutException timeout = new MongoExecutionTimeoutException(50, "operation exceeded time limit");
+        when(accountTemplate.incrementBalanceByAccountNum(anyString(), anyDouble(), any()))
+                .thenReturn(Mono.error(new UncategorizedMongoDbException(timeout.getMessage(), timeout)));
+
+        StepVerifier.create(txnService.executeTxn(txn, deadline))
+                .expectError(DeadlineExceededException.class)
+                .verify();
+
+        verify(transactionManager).rollback(any());
+    }
+
+    @Test
+    void cancellationRollsBack() {
+        when(accountTemplate.incrementBalanceByAccountNum(anyString(), anyDouble(), any())).thenReturn(Mono.never());
+
+        StepVerifier.create(txnService.executeTxn(txn, deadline))
+                .expectSubscription()
+                .expectNoEvent(Duration.ofMillis(50))
+                .thenCancel()
+                .verify(Duration.ofSeconds(5));
+
+        verify(transactionManager).getReactiveTransaction(any());
+        verify(transactionManager).rollback(any());
+        verify(transactionManager, never()).commit(any());
+    }
+
+    private static Txn transfer() {
+        Txn txn = new Txn();
+        txn.setId("txn-1");
+        txn.addEntry(new TxnEntry("111111", -10));
+        txn.addEntry(new TxnEntry("222222", 10));
+        return txn;
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.mdbspringbootreactive.template;
+
+import com.example.mdbspringbootreactive.config.Deadline;
+import com.example.mdbspringbootreactive.model.Account;
+import com.mongodb.MongoCommandException;
+import com.mongodb.ServerAddress;
+import org.bson.BsonDocument;
+import org.bson.BsonDouble;
+import org.bson.BsonInt32;
+import org.bson.BsonString;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.mongodb.UncategorizedMongoDbException;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AccountTemplateTest {
+
+    private final ReactiveMongoTemplate mongoTemplate = mock(ReactiveMongoTemplate.class);
+    private final AccountTemplate accountTemplate = new AccountTemplate(mongoTemplate);
+    private final Deadline deadline = Deadline.after(Duration.ofSeconds(5));
+
+    @Test
+    void countsMatchedAccount() {
+        givenExecuteReturns(Flux.just(new Document("_id", 1)));
+        assertEquals(1L, accountTemplate.incrementBalanceByAccountNum("111111", 10, deadline).block());
+    }
+
+    @Test
+    void countsZeroWhenAccountMissing() {
+        givenExecuteReturns(Flux.empty());
+        assertEquals(0L, accountTemplate.incrementBalanceByAccountNum("111111", 10, deadline).block());
+    }
+
+    @Test
+    void mapsTranslatedValidationFailureToDataIntegrityViolation() {
+        givenExecuteReturns(Flux.error(new UncategorizedMongoDbException("failed", commandException(121))));
+        assertThrows(DataIntegrityViolationException.class,
+                () -> accountTemplate.incrementBalanceByAccountNum("111111", -10, deadline).block());
+    }
+
+    @Test
+    void mapsRawValidationFailureToDataIntegrityViolation() {
+        givenExecuteReturns(Flux.error(commandException(121)));
+        assertThrows(DataIntegrityViolationException.class,
+                () -> accountTemplate.incrementBalanceByAccountNum("111111", -10, deadline).block());
+    }
+
+    @Test
+    void leavesOtherCommandFailuresAlone() {
+        givenExecuteReturns(Flux.error(new UncategorizedMongoDbException("failed", commandException(50))));
+        assertThrows(UncategorizedMongoDbException.class,
+                () -> accountTemplate.incrementBalanceByAccountNum("111111", 10, deadline).block());
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void givenExecuteReturns(Flux<?> result) {
+        when(mongoTemplate.execute(eq(Account.class), any())).thenReturn((Flux) result);
+    }
+
+    private static MongoCommandException commandException(int code) {
+        BsonDocument response = new BsonDocument("ok", new BsonDouble(0))
+                .append("code", new BsonInt32(code))
+                .append("errmsg", new BsonString("Document failed validation"));
+        return new MongoCommandException(response, new ServerAddress());
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.mdbspringbootreactive.template;
+
+import com.example.mdbspringbootreactive.config.Deadline;
+import com.example.mdbspringbootreactive.enumeration.ErrorReason;
+import com.example.mdbspringbootreactive.enumeration.TxnStatus;
+import com.example.mdbspringbootreactive.model.Txn;
+import com.mongodb.client.model.FindOneAndUpdateOptions;
+import com.mongodb.client.model.ReturnDocument;
+import com.mongodb.reactivestreams.client.MongoCollection;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.ReactiveCollectionCallback;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TxnTemplateTest {
+
+    private final ReactiveMongoTemplate mongoTemplate = mock(ReactiveMongoTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final MongoCollection<Document> collection = mock(MongoCollection.class);
+    private final Deadline deadline = Deadline.after(Duration.ofSeconds(5));
+    private final ObjectId id = new ObjectId();
+    private TxnTemplate txnTemplate;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        MongoCustomConversions conversions = new MongoCustomConversions(List.of());
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+        when(mongoTemplate.getConverter()).thenReturn(converter);
+        when(mongoTemplate.execute(eq(Txn.class), any())).thenAnswer(invocation -> {
+            ReactiveCollectionCallback<Document> callback = invocation.getArgument(1);
+            return Flux.from(callback.doInCollection(collection));
+        });
+        txnTemplate = new TxnTemplate(mongoTemplate);
+    }
+
+    @Test
+    void mapsIdStatusAndErrorReason() {
+        givenUpdatedDocument(new Document("_id", id));
+
+        txnTemplate.findAndUpdateStatusById(id.toHexString(), TxnStatus.FAILED, ErrorReason.INSUFFICIENT_BALANCE, deadline)
+                .block();
+
+        ArgumentCaptor<Bson> query = ArgumentCaptor.forClass(Bson.class);
+        ArgumentCaptor<Bson> update = ArgumentCaptor.forClass(Bson.class);
+        ArgumentCaptor<FindOneAndUpdateOptions> options = ArgumentCaptor.forClass(FindOneAndUpdateOptions.class);
+        verify(collection).findOneAndUpdate(query.capture(), update.capture(), options.capture());
+
+        assertEquals(new Document("_id", id), query.getValue());
+        assertEquals(new Document("$set", new Document("status", "FAILED").append("errorReason", "INSUFFICIENT_BALANCE")),
+                update.getValue());
+        assertEquals(ReturnDocument.AFTER, options.getValue().getReturnDocument());
+        long maxTime = options.getValue().getMaxTime(TimeUnit.MILLISECONDS);
+        assertTrue(maxTime > 0 && maxTime <= 5000);
+    }
+
+    @Test
+    void leavesErrorReasonUnsetWhenAbsent() {
+        givenUpdatedDocument(new Document("_id", id));
+
+        txnTemplate.findAndUpdateStatusById(id.toHexString(), TxnStatus.SUCCESS, null, deadline).block();
+
+        ArgumentCaptor<Bson> update = ArgumentCaptor.forClass(Bson.class);
+        verify(collection).findOneAndUpdate(any(Bson.class), update.capture(), any(FindOneAndUpdateOptions.class));
+        assertEquals(new Document("$set", new Document("status", "SUCCESS")), update.getValue());
+    }
+
+    @Test
+    void readsUpdatedDocumentIntoTxn() {
+        givenUpdatedDocument(new Document("_id", id)
+                .append("entries", List.of(new Document("accountNum", "111111").append("amount", -10.0),
+                        new Document("accountNum", "222222").append("amount", 10.0)))
+                .append("status", "SUCCESS")
+                .append("transactionDate", new Date()));
+
+        Txn txn = txnTemplate.findAndUpdateStatusById(id.toHexString(), TxnStatus.SUCCESS, null, deadline).block();
+
+        assertEquals(id.toHexString(), txn.getId());
+        assertEquals(TxnStatus.SUCCESS, txn.getStatus());
+        assertNull(txn.getErrorReason());
+        assertEquals(2, txn.getEntries().size());
+        assertEquals("222222", txn.getEntries().get(1).getAccountNum());
+        assertEquals(-10.0, txn.getEntries().get(0).getAmount());
+    }
+
+    @Test
+    void emptyWhenNotFound() {
+        when(collection.findOneAndUpdate(any(Bson.class), any(Bson.class), any(FindOneAndUpdateOptions.class)))
+                .thenReturn(Mono.empty());
+
+        assertNull(txnTemplate.findAndUpdateStatusById(id.toHexString(), TxnStatus.SUCCESS, null, deadline).block());
+    }
+
+    private void givenUpdatedDocument(Document document) {
+        when(collection.findOneAndUpdate(any(Bson.class), any(Bson.class), any(FindOneAndUpdateOptions.class)))
+                .thenReturn(Mono.just(document));
+    }
+}
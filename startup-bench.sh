@@ -0,0 +1,119 @@
+#!/usr/bin/env bash
+#
+# Compares startup time and first-request latency of the build variants:
+#   jvm     - plain executable jar          (mvn package)
+#   cds     - AOT-processed jar + CDS archive (mvn -Pcds verify)
+#   native  - GraalVM native image          (mvn -Pnative package)
+#
+# Usage: ./startup-bench.sh [runs] [variant...]
+# Variants whose artifacts have not been built are skipped.
+# MongoDB (a replica set, for transactions) must be reachable at spring.data.mongodb.uri.
+#
+# The first and second requests are transfers between two benchmark accounts, so they
+# exercise TransferRequest/Txn binding and a MongoDB transaction. The accounts are created
+# once, through the first built variant, before any timing starts.
+
+set -euo pipefail
+
+RUNS=${1:-5}
+[ $# -gt 0 ] && shift
+[ $# -eq 0 ] && set -- jvm cds native
+VARIANTS=("$@")
+
+PORT=${PORT:-8080}
+BASE_URL="http://localhost:${PORT}"
+FROM_ACCOUNT=startup-bench-from
+TO_ACCOUNT=startup-bench-to
+TARGET=target
+NAME=mdb-spring-boot-reactive-0.0.1-SNAPSHOT
+
+now_ms() {
+    echo $(( $(date +%s%N) / 1000000 ))
+}
+
+command_for() {
+    case "$1" in
+        jvm)    [ -f "${TARGET}/${NAME}.jar" ] && echo "java -jar ${TARGET}/${NAME}.jar" ;;
+        cds)    [ -f "${TARGET}/cds/application.jsa" ] && \
+                    echo "java -XX:SharedArchiveFile=${TARGET}/cds/application.jsa -Dspring.aot.enabled=true -jar ${TARGET}/cds/${NAME}-cds.jar" ;;
+        native) [ -x "${TARGET}/mdb-spring-boot-reactive" ] && echo "${TARGET}/mdb-spring-boot-reactive" ;;
+    esac
+}
+
+# Starts a variant in the background and waits until it accepts connections; sets APP_PID
+start_app() {
+    $1 --server.port="${PORT}" > /dev/null 2>&1 &
+    APP_PID=$!
+    until (exec 3<>"/dev/tcp/localhost/${PORT}") 2> /dev/null; do
+        if ! kill -0 "${APP_PID}" 2> /dev/null; then
+            echo "process exited before listening" >&2
+            return 1
+        fi
+        sleep 0.01
+    done
+}
+
+stop_app() {
+    kill "${APP_PID}"
+    wait "${APP_PID}" 2> /dev/null || true
+}
+
+# Creates the benchmark accounts; an existing account answers DUPLICATE_ACCOUNT, which is fine
+create_accounts() {
+    start_app "$1"
+    curl -s -o /dev/null -H 'Content-Type: application/json' \
+        -d "{\"accountNum\": \"${FROM_ACCOUNT}\", \"balance\": 1000000000.0}" "${BASE_URL}/account"
+    curl -s -o /dev/null -H 'Content-Type: application/json' \
+        -d "{\"accountNum\": \"${TO_ACCOUNT}\", \"balance\": 0.0}" "${BASE_URL}/account"
+    stop_app
+}
+
+# Times one transfer and prints its latency in seconds; fails unless the transfer succeeds
+transfer() {
+    local result
+    result=$(curl -s -o /dev/null -w '%{http_code} %{time_total}' -H 'Content-Type: application/json' \
+        -d "{\"to\": \"${TO_ACCOUNT}\", \"amount\": 1.0}" "${BASE_URL}/account/${FROM_ACCOUNT}/transfer")
+    if [ "${result%% *}" != 200 ]; then
+        echo "transfer failed with HTTP ${result%% *}" >&2
+        return 1
+    fi
+    echo "${result#* }"
+}
+
+# Runs one variant once and prints "<startup ms> <first transfer ms> <second transfer ms>"
+measure() {
+    local start ready first second
+    start=$(now_ms)
+    start_app "$1"
+    ready=$(now_ms)
+    first=$(transfer) || { stop_app; return 1; }
+    second=$(transfer) || { stop_app; return 1; }
+    stop_app
+    awk -v s=$((ready - start)) -v f="${first}" -v n="${second}" 'BEGIN { printf "%d %.1f %.1f\n", s, f * 1000, n * 1000 }'
+}
+
+accounts_created=false
+printf "%-8s %6s %14s %19s %19s\n" variant runs "startup (ms)" "1st transfer (ms)" "2nd transfer (ms)"
+for variant in "${VARIANTS[@]}"; do
+    cmd=$(command_for "${variant}" || true)
+    if [ -z "${cmd}" ]; then
+        printf "%-8s %s\n" "${variant}" "not built, skipped"
+        continue
+    fi
+    if [ "${accounts_created}" = false ]; then
+        create_accounts "${cmd}"
+        accounts_created=true
+    fi
+    results=""
+    for _ in $(seq "${RUNS}"); do
+        results+="$(measure "${cmd}")"$'\n'
+    done
+    # Median of each column across runs
+    printf "%s" "${results}" | awk -v v="${variant}" -v r="${RUNS}" '
+        { s[NR] = $1; f[NR] = $2; n[NR] = $3 }
+        function median(a, len,   i, j, t) {
+            for (i = 1; i <= len; i++) for (j = i + 1; j <= len; j++) if (a[j] < a[i]) { t = a[i]; a[i] = a[j]; a[j] = t }
+            return len % 2 ? a[(len + 1) / 2] : (a[len / 2] + a[len / 2 + 1]) / 2
+        }
+        END { printf "%-8s %6d %14.0f %19.1f %19.1f\n", v, r, median(s, NR), median(f, NR), median(n, NR) }'
+done